@@ -0,0 +1,47 @@
+package sg.christopher.duke;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A headless console front end for Duke.
+ *
+ * Never touches JavaFX, so it starts quickly and can be run without a display. If arguments are given, they are
+ * treated as a single command (e.g. {@code duke todo buy milk}) and the program exits after replying. Otherwise,
+ * commands are read line by line from standard input until an exit command or end of input.
+ */
+public class Cli {
+    private static final String PROMPT = "$ ";
+
+    private static boolean isRunning = true;
+
+    public static void main(String[] args) {
+        // Tick and cross icons need UTF-8 regardless of the platform's default encoding
+        PrintStream out = new PrintStream(System.out, true, StandardCharsets.UTF_8);
+        Duke.setExitHandler(() -> isRunning = false);
+
+        if (args.length > 0) {
+            out.println(Duke.getResponse(String.join(" ", args)));
+            return;
+        }
+
+        out.println(Duke.WELCOME_MESSAGE);
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))) {
+            String userInput;
+            while (isRunning) {
+                out.print(PROMPT);
+                userInput = in.readLine();
+                if (userInput == null) {
+                    break;
+                }
+                out.println(Duke.getResponse(userInput));
+            }
+        } catch (IOException ioe) {
+            System.err.println("Unable to read user input");
+            ioe.printStackTrace();
+        }
+    }
+}
@@ -4,5 +4,5 @@
 package sg.christopher.duke;
 
 public enum CommandType {
-    EXIT, TODO, DEADLINE, EVENT, DELETE, DONE, LIST, UNRECOGNISED, FIND
+    EXIT, TODO, DEADLINE, EVENT, DELETE, DONE, LIST, UNRECOGNISED, FIND, USE, EXPORT, IMPORT
 }
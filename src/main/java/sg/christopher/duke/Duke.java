@@ -1,69 +1,73 @@
 package sg.christopher.duke;
 
-import javafx.application.Platform;
-import javafx.stage.Stage;
 import sg.christopher.duke.entities.Deadline;
 import sg.christopher.duke.entities.Event;
 import sg.christopher.duke.entities.Task;
 import sg.christopher.duke.entities.Todo;
 import sg.christopher.duke.io.DataManager;
-import sg.christopher.duke.ui.MainWindow;
-
+import sg.christopher.duke.io.DataTransfer;
+import sg.christopher.duke.io.TaskFormat;
+import sg.christopher.duke.io.TaskListCache;
+
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+/**
+ * Core command handling for Duke.
+ *
+ * Does not depend on any UI toolkit, so that both the JavaFX GUI and the console front end can share it.
+ */
 public class Duke {
+    public static final String WELCOME_MESSAGE = "Hello I'm Duke!\nWhat can I do for you?";
 
+    private static final TaskListCache taskLists = new TaskListCache();
+    private static String activeList = DataManager.readActiveList();
     private static List<Task> savedItems = loadSavedItems();
 
-    private MainWindow mainWindowController;
-    private static Stage stage;
-
-    public void setMainWindowController(MainWindow mw) {
-        mainWindowController = mw;
-    }
-
-    public void setStage(Stage stage) {
-        Duke.stage = stage;
-    }
-
-    private void dukePrint(String message) {
-        mainWindowController.printDukeMessage(message);
-    }
+    private static Runnable exitHandler = () -> { };
 
-    public void printWelcome() {
-        dukePrint("Hello I'm Duke! What can I do for you?");
+    /**
+     * Sets the action to run when the user enters an exit command.
+     *
+     * @param handler action that shuts down the front end
+     */
+    public static void setExitHandler(Runnable handler) {
+        exitHandler = handler;
     }
 
     /**
-     * Hydrates the task data store with saved data from disk.
+     * Hydrates the task data store with the active task list, reading it from disk if it is not in memory.
      *
-     * @return list of tasks that are saved on disk
+     * @return list of tasks in the active task list
      */
     public static List<Task> loadSavedItems() {
-        List<Task> saved = DataManager.readList();
-        return saved != null ? saved : new ArrayList<>();
+        return taskLists.get(activeList);
     }
 
     /**
-     * Saves a task to memory and writes it to disk.
+     * Saves a task to the active task list in memory and writes the list to disk.
      *
      * @param task the task to be saved
      */
     public static void saveItem(Task task) {
         savedItems.add(task);
-        DataManager.writeList(savedItems);
+        DataManager.writeList(activeList, savedItems);
     }
 
     /**
-     * Loads saved tasks from disk, and get a specific task using its index.
+     * Loads the active task list, and get a specific task using its index.
      *
      * @param index index of the task to be retrieved
      * @return the task at that index
      */
     public static Task loadItem(int index) {
-        savedItems = DataManager.readList();
+        savedItems = loadSavedItems();
         return savedItems.get(index);
     }
 
@@ -75,7 +79,7 @@ public class Duke {
      */
     public static Task removeItem(int index) {
         Task removed = savedItems.remove(index);
-        DataManager.writeList(savedItems);
+        DataManager.writeList(activeList, savedItems);
         return removed;
     }
 
@@ -96,7 +100,7 @@ public class Duke {
             return "ERROR: Task no. not found. Does that task exist?";
         }
         task.markAsDone();
-        DataManager.writeList(savedItems);
+        DataManager.writeList(activeList, savedItems);
 
         return "Nice! I've marked this task as done:\n" + taskNo + ". " + task;
     }
@@ -154,7 +158,17 @@ public class Duke {
         if (userInput.split(" ").length < 2) {
             return "ERROR: Search term not found. Did you type a search term?";
         }
-        String searchTerm = userInput.replaceFirst("find ", "").toLowerCase();
+        String query = userInput.replaceFirst("find ", "");
+
+        // Check for flag to search across all lists
+        if (query.equals("/all") || query.endsWith(" /all")) {
+            String allListsSearchTerm = query.substring(0, query.length() - "/all".length()).trim();
+            if (allListsSearchTerm.isEmpty()) {
+                return "ERROR: Search term not found. Did you type a search term?";
+            }
+            return findAllHandler(allListsSearchTerm.toLowerCase());
+        }
+        String searchTerm = query.toLowerCase();
 
         savedItems = loadSavedItems();
 
@@ -171,6 +185,117 @@ public class Duke {
         return sb.toString();
     }
 
+    /**
+     * Searches every task list in parallel, and merges the results in list order.
+     *
+     * Inactive lists are read straight from disk, so they are not kept in memory after the search.
+     */
+    private static String findAllHandler(String searchTerm) {
+        List<String> foundTasks = DataManager.getListNames().parallelStream()
+                .flatMap(listName -> findInList(listName, searchTerm).stream())
+                .collect(Collectors.toList());
+
+        if (foundTasks.size() == 0) {
+            return "No task matching your search term was found in any list. Perhaps try another search term?";
+        }
+        StringBuilder sb = new StringBuilder("Here are the matching tasks across all lists:\n");
+        for (String foundTask : foundTasks) {
+            sb.append(foundTask + "\n");
+        }
+        return sb.toString();
+    }
+
+    private static List<String> findInList(String listName, String searchTerm) {
+        List<Task> tasks = listName.equals(activeList) ? savedItems : DataManager.readList(listName);
+        List<String> foundTasks = new ArrayList<>();
+        if (tasks == null) {
+            return foundTasks;
+        }
+        for (int i = 0; i < tasks.size(); ++i) {
+            Task task = tasks.get(i);
+            if (task.getDescription().toLowerCase().contains(searchTerm)) {
+                foundTasks.add("[" + listName + "] " + (i + 1) + ". " + task);
+            }
+        }
+        return foundTasks;
+    }
+
+    private static String useHandler(String userInput) {
+        String[] input = userInput.split(" ");
+        if (input.length < 2) {
+            return "ERROR: No list name found. Did you input the name of the list you'd like to use?";
+        } else if (input.length > 2 || !DataManager.isValidListName(input[1])) {
+            return "ERROR: Invalid list name. List names can only contain letters, digits, '-' and '_'.";
+        }
+
+        activeList = input[1];
+        DataManager.writeActiveList(activeList);
+        savedItems = loadSavedItems();
+        return "Now using the list: " + activeList + printRemainingCount();
+    }
+
+    private static String exportHandler(String userInput) {
+        // Check for file name
+        if (userInput.split(" ").length < 2) {
+            return "ERROR: File name not found. Did you input the file you'd like to export to?";
+        }
+        String fileName = userInput.replaceFirst("export ", "");
+        TaskFormat format = TaskFormat.fromFileName(fileName);
+        if (format == null) {
+            return "ERROR: Unrecognised file format. Please export to a .csv or .jsonl file.";
+        }
+
+        savedItems = loadSavedItems();
+        try {
+            DataTransfer.exportList(savedItems, Paths.get(fileName), format);
+        } catch (InvalidPathException | IOException e) {
+            return "ERROR: Unable to write to " + fileName + ". Does its folder exist?";
+        }
+        return "Done! I've exported " + savedItems.size() + " tasks to " + fileName + ".";
+    }
+
+    private static String importHandler(String userInput) {
+        // Check for file name
+        if (userInput.split(" ").length < 2) {
+            return "ERROR: File name not found. Did you input the file you'd like to import from?";
+        }
+        String fileName = userInput.replaceFirst("import ", "");
+        TaskFormat format = TaskFormat.fromFileName(fileName);
+        if (format == null) {
+            return "ERROR: Unrecognised file format. Please import from a .csv or .jsonl file.";
+        }
+
+        savedItems = loadSavedItems();
+        DataTransfer.ImportResult result;
+        try {
+            Path path = Paths.get(fileName);
+            result = DataTransfer.importList(path, format, chunk -> savedItems.addAll(chunk));
+        } catch (InvalidPathException | NoSuchFileException e) {
+            return "ERROR: File not found. Does " + fileName + " exist?";
+        } catch (IOException ioe) {
+            // Keep the tasks read so far, so that memory and disk stay in sync
+            DataManager.writeList(activeList, savedItems);
+            return "ERROR: Unable to finish reading " + fileName + ". Is it a UTF-8 text file?" + printRemainingCount();
+        }
+        if (result.getImportedCount() > 0) {
+            DataManager.writeList(activeList, savedItems);
+        }
+
+        StringBuilder sb = new StringBuilder("Done! I've imported " + result.getImportedCount() + " tasks from "
+                + fileName + ".");
+        if (result.getMalformedCount() > 0) {
+            sb.append("\nSkipped " + result.getMalformedCount() + " malformed rows:");
+            for (String error : result.getErrors()) {
+                sb.append("\n" + error);
+            }
+            if (result.getMalformedCount() > result.getErrors().size()) {
+                sb.append("\n...");
+            }
+        }
+        sb.append(printRemainingCount());
+        return sb.toString();
+    }
+
     private static String lsHandler() {
         if (savedItems.size() == 0) {
             return "No tasks found. Start adding your first few tasks!";
@@ -223,6 +348,12 @@ public class Duke {
             return CommandType.EVENT;
         case "find":
             return CommandType.FIND;
+        case "use":
+            return CommandType.USE;
+        case "export":
+            return CommandType.EXPORT;
+        case "import":
+            return CommandType.IMPORT;
         case "rm":
             // Fallthrough
         case "delete":
@@ -243,14 +374,7 @@ public class Duke {
 
         switch (commandType) {
         case EXIT:
-            new Thread(() -> {
-                try {
-                    Thread.sleep(1500);
-                    Platform.runLater(() -> stage.close());
-                } catch (Exception e) {
-                    e.printStackTrace();
-                }
-            }).start();
+            exitHandler.run();
             return "Bye. Hope to see you again soon!";
         case TODO:
             return todoHandler(userInput);
@@ -262,6 +386,12 @@ public class Duke {
             return deleteHandler(userInput);
         case FIND:
             return findHandler(userInput);
+        case USE:
+            return useHandler(userInput);
+        case EXPORT:
+            return exportHandler(userInput);
+        case IMPORT:
+            return importHandler(userInput);
         case DONE:
             return doneHandler(userInput);
         case LIST:
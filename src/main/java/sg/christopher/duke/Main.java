@@ -3,6 +3,7 @@ package sg.christopher.duke;
 import java.io.IOException;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.scene.layout.AnchorPane;
@@ -26,9 +27,15 @@ public class Main extends Application {
             stage.setTitle("Duke by Chris");
             MainWindow mainWindow = fxmlLoader.<MainWindow>getController();
             mainWindow.setDuke(duke);
-            duke.setMainWindowController(mainWindow);
-            duke.setStage(stage);
-            duke.printWelcome();
+            Duke.setExitHandler(() -> new Thread(() -> {
+                try {
+                    Thread.sleep(1500);
+                    Platform.runLater(() -> stage.close());
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            }).start());
+            mainWindow.printDukeMessage(Duke.WELCOME_MESSAGE);
             stage.show();
         } catch (IOException e) {
             e.printStackTrace();
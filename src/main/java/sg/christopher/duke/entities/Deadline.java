@@ -8,6 +8,8 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
 public class Deadline extends Task {
+    private static final long serialVersionUID = -2978597765804367682L;
+
     /**
      * Creates a brand new Deadline task.
      * @param description description of the task
@@ -30,6 +32,15 @@ public class Deadline extends Task {
         }
     }
 
+    /**
+     * Gets the deadline as it was input, with dates in ISO format.
+     *
+     * @return the deadline of the task
+     */
+    public String getDeadline() {
+        return ldDeadline != null ? ldDeadline.toString() : deadline;
+    }
+
     private String getDeadlineString() {
         if (ldDeadline != null) {
             return ldDeadline.format(DateTimeFormatter.ofPattern("MMM d yyyy"));
@@ -4,6 +4,8 @@
 package sg.christopher.duke.entities;
 
 public class Event extends Task {
+    private static final long serialVersionUID = -3036602807295834616L;
+
     /**
      * Creates a new Event task.
      *
@@ -17,6 +19,15 @@ public class Event extends Task {
 
     private String dateTime;
 
+    /**
+     * Gets the time that the task needs to be done at.
+     *
+     * @return the date/time of the task
+     */
+    public String getDateTime() {
+        return dateTime;
+    }
+
     @Override
     public String toString() {
         return "[E]" + super.toString() + " (at: " + dateTime + ")";
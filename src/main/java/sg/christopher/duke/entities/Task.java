@@ -6,6 +6,9 @@ package sg.christopher.duke.entities;
 import java.io.Serializable;
 
 public class Task implements Serializable {
+    // Fixed to the value computed before any methods were added, so that saved data can still be read
+    private static final long serialVersionUID = -3412572088528043851L;
+
     protected String description;
     protected boolean isDone;
 
@@ -37,6 +40,15 @@ public class Task implements Serializable {
         return description;
     }
 
+    /**
+     * Checks whether the task is done.
+     *
+     * @return true if the task is done
+     */
+    public boolean isDone() {
+        return isDone;
+    }
+
     /**
      * Marks a task as done.
      */
@@ -4,6 +4,8 @@
 package sg.christopher.duke.entities;
 
 public class Todo extends Task {
+    private static final long serialVersionUID = -2592993598495293780L;
+
     /**
      * Creates a new Todo task.
      *
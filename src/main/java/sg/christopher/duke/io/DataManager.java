@@ -12,19 +12,116 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
 import java.util.List;
 
 public class DataManager {
-    public static final File dataFile = new File("data", "data.txt");
+    public static final File DATA_DIR = new File("data");
+    public static final File LISTS_DIR = new File(DATA_DIR, "lists");
+    public static final String DEFAULT_LIST = "default";
+
+    private static final File DEFAULT_LIST_FILE = new File(DATA_DIR, "data.txt");
+    private static final File ACTIVE_LIST_FILE = new File(DATA_DIR, "active");
+    private static final String DATA_FILE_EXTENSION = ".txt";
+
+    /**
+     * Checks whether a name can be used as a task list name.
+     *
+     * Only letters, digits, hyphens and underscores are allowed, so that the name is always a safe file name.
+     *
+     * @param listName name of the task list
+     * @return true if the name is valid
+     */
+    public static boolean isValidListName(String listName) {
+        return listName.matches("[A-Za-z0-9_-]+");
+    }
+
+    /**
+     * Gets the file that a task list is stored in.
+     *
+     * The default list is kept in {@code data/data.txt} so that data saved by older versions is still found. Other
+     * lists are kept in {@code data/lists}, so that no list name can refer to the default list's file.
+     *
+     * @param listName name of the task list
+     * @return file that the task list is stored in
+     */
+    public static File getDataFile(String listName) {
+        if (DEFAULT_LIST.equals(listName)) {
+            return DEFAULT_LIST_FILE;
+        }
+        return new File(LISTS_DIR, listName + DATA_FILE_EXTENSION);
+    }
+
+    /**
+     * Gets the names of all task lists saved on disk, including the default list.
+     *
+     * @return names of all saved task lists, with the default list first and the rest sorted by name
+     */
+    public static List<String> getListNames() {
+        List<String> listNames = new ArrayList<>();
+        listNames.add(DEFAULT_LIST);
+        File[] files = LISTS_DIR.listFiles((dir, name) -> name.endsWith(DATA_FILE_EXTENSION));
+        if (files == null) {
+            return listNames;
+        }
+        for (File file : files) {
+            String name = file.getName();
+            String listName = name.substring(0, name.length() - DATA_FILE_EXTENSION.length());
+            if (!listName.equals(DEFAULT_LIST) && isValidListName(listName)) {
+                listNames.add(listName);
+            }
+        }
+        // Files are listed in no particular order, so sort them to keep results stable
+        listNames.subList(1, listNames.size()).sort(null);
+        return listNames;
+    }
+
+    /**
+     * Reads the name of the task list that was last in use.
+     *
+     * @return name of the task list, or the default list if none was saved
+     */
+    public static String readActiveList() {
+        try {
+            String listName = new String(Files.readAllBytes(ACTIVE_LIST_FILE.toPath()), StandardCharsets.UTF_8).trim();
+            return isValidListName(listName) ? listName : DEFAULT_LIST;
+        } catch (NoSuchFileException nsfe) {
+            return DEFAULT_LIST;
+        } catch (IOException ioe) {
+            System.err.println("Unable to read active list from disk");
+            ioe.printStackTrace();
+        }
+        return DEFAULT_LIST;
+    }
+
+    /**
+     * Saves the name of the task list in use, so that it is still used the next time Duke starts.
+     *
+     * @param listName name of the task list
+     */
+    public static void writeActiveList(String listName) {
+        try {
+            DATA_DIR.mkdirs();
+            Files.write(ACTIVE_LIST_FILE.toPath(), (listName + "\n").getBytes(StandardCharsets.UTF_8));
+        } catch (IOException ioe) {
+            System.err.println("Unable to save active list to disk");
+            ioe.printStackTrace();
+        }
+    }
 
     /**
-     * Writes the task list to disk.
+     * Writes a task list to disk.
      *
-     * Creates the file and it's parent folders if it doesn't exist.
+     * Creates the file and it's parent folders if it doesn't exist. Only the file of the given list is rewritten.
      *
+     * @param listName name of the task list
      * @param inList task list to write to disk
      */
-    public static void writeList(List<Task> inList) {
+    public static void writeList(String listName, List<Task> inList) {
+        File dataFile = getDataFile(listName);
         try {
             dataFile.getParentFile().mkdirs();
             dataFile.createNewFile();
@@ -40,12 +137,13 @@ public class DataManager {
     }
 
     /**
-     * Reads the task list from disk.
+     * Reads a task list from disk.
      *
+     * @param listName name of the task list
      * @return task list, or null if file doesn't exist
      */
-    public static List<Task> readList() {
-        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(dataFile))) {
+    public static List<Task> readList(String listName) {
+        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(getDataFile(listName)))) {
             return (List<Task>) ois.readObject();
         } catch (FileNotFoundException fnfe) {
             return null;
@@ -0,0 +1,158 @@
+/**
+ * Streams tasks to and from CSV and JSON Lines files.
+ */
+package sg.christopher.duke.io;
+
+import sg.christopher.duke.entities.Task;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class DataTransfer {
+    public static final int CHUNK_SIZE = 4096;
+    public static final int MAX_REPORTED_ERRORS = 10;
+    public static final int MAX_RECORD_LINES = 64;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Writes tasks to a file, one line at a time.
+     *
+     * Creates the file if it doesn't exist, and overwrites it if it does.
+     *
+     * @param tasks tasks to export
+     * @param path file to write to
+     * @param format format to write the tasks in
+     * @throws IOException if the file cannot be written
+     */
+    public static void exportList(List<Task> tasks, Path path, TaskFormat format) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        try (BufferedWriter writer = new BufferedWriter(
+                Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), BUFFER_SIZE), BUFFER_SIZE)) {
+            if (format.getHeader() != null) {
+                writer.write(format.getHeader());
+                writer.write('\n');
+            }
+            StringBuilder sb = new StringBuilder();
+            for (Task task : tasks) {
+                sb.setLength(0);
+                format.encode(task, sb);
+                sb.append('\n');
+                writer.append(sb);
+            }
+        }
+    }
+
+    /**
+     * Reads tasks from a file, one record at a time, and passes them on in chunks of up to {@link #CHUNK_SIZE} tasks.
+     *
+     * Malformed records are skipped and reported in the result instead of stopping the import. A record may span up
+     * to {@link #MAX_RECORD_LINES} lines. If a record spanning several lines is malformed, only its first line is
+     * skipped, and the lines after it are read again as records of their own. Blank lines and the format's header
+     * line are ignored. The chunk passed to {@code sink} is reused, so it must be copied if kept.
+     *
+     * @param path file to read from
+     * @param format format the tasks are in
+     * @param sink receives each chunk of parsed tasks
+     * @return number of tasks imported and details of malformed lines
+     * @throws IOException if the file cannot be read
+     */
+    public static ImportResult importList(Path path, TaskFormat format, Consumer<List<Task>> sink)
+            throws IOException {
+        ImportResult result = new ImportResult();
+        List<Task> chunk = new ArrayList<>(CHUNK_SIZE);
+        List<String> recordLines = new ArrayList<>();
+        Deque<String> pushedBackLines = new ArrayDeque<>();
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try (BufferedReader reader = new BufferedReader(
+                Channels.newReader(channel, StandardCharsets.UTF_8.newDecoder(), BUFFER_SIZE), BUFFER_SIZE)) {
+            String line;
+            int lineNo = 0;
+            while ((line = readLine(reader, pushedBackLines)) != null) {
+                ++lineNo;
+                if (line.isBlank() || (lineNo == 1 && line.equalsIgnoreCase(format.getHeader()))) {
+                    continue;
+                }
+                int recordLineNo = lineNo;
+                String record = line;
+                String nextLine;
+                recordLines.clear();
+                recordLines.add(line);
+                while (!format.isCompleteRecord(record) && recordLines.size() < MAX_RECORD_LINES
+                        && (nextLine = readLine(reader, pushedBackLines)) != null) {
+                    ++lineNo;
+                    recordLines.add(nextLine);
+                    record = record + "\n" + nextLine;
+                }
+                try {
+                    chunk.add(format.decode(record));
+                } catch (IllegalArgumentException iae) {
+                    result.addError(recordLineNo, iae.getMessage());
+                    // Read the other lines again on their own, so that a stray quote doesn't hide the rows after it
+                    for (int i = recordLines.size() - 1; i >= 1; --i) {
+                        pushedBackLines.addFirst(recordLines.get(i));
+                    }
+                    lineNo -= recordLines.size() - 1;
+                    continue;
+                }
+                if (chunk.size() == CHUNK_SIZE) {
+                    sink.accept(chunk);
+                    result.importedCount += chunk.size();
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            sink.accept(chunk);
+            result.importedCount += chunk.size();
+        }
+        return result;
+    }
+
+    private static String readLine(BufferedReader reader, Deque<String> pushedBackLines) throws IOException {
+        return pushedBackLines.isEmpty() ? reader.readLine() : pushedBackLines.poll();
+    }
+
+    /**
+     * Summary of an import.
+     *
+     * Only the first {@link #MAX_REPORTED_ERRORS} malformed lines are described, so that importing a badly broken
+     * file does not use up memory.
+     */
+    public static class ImportResult {
+        private int importedCount = 0;
+        private int malformedCount = 0;
+        private final List<String> errors = new ArrayList<>();
+
+        private void addError(int lineNo, String message) {
+            ++malformedCount;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add("Line " + lineNo + ": " + message);
+            }
+        }
+
+        public int getImportedCount() {
+            return importedCount;
+        }
+
+        public int getMalformedCount() {
+            return malformedCount;
+        }
+
+        public List<String> getErrors() {
+            return errors;
+        }
+    }
+}
@@ -0,0 +1,528 @@
+/**
+ * Text formats that tasks can be exported to and imported from, one task per record.
+ */
+package sg.christopher.duke.io;
+
+import sg.christopher.duke.entities.Deadline;
+import sg.christopher.duke.entities.Event;
+import sg.christopher.duke.entities.Task;
+import sg.christopher.duke.entities.Todo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public enum TaskFormat {
+    CSV(".csv", "type,done,description,date") {
+        @Override
+        public void encode(Task task, StringBuilder sb) {
+            sb.append(getTypeCode(task)).append(',').append(task.isDone()).append(',');
+            appendCsvField(task.getDescription(), sb);
+            sb.append(',');
+            String date = getDate(task);
+            if (date != null) {
+                appendCsvField(date, sb);
+            }
+        }
+
+        @Override
+        public Task decode(String line) {
+            List<String> fields = splitCsvLine(line);
+            if (fields.size() != 4) {
+                throw new IllegalArgumentException("Expected 4 fields but found " + fields.size());
+            }
+            String date = fields.get(3).isEmpty() ? null : fields.get(3);
+            return createTask(fields.get(0), parseDone(fields.get(1)), fields.get(2), date);
+        }
+
+        @Override
+        public boolean isCompleteRecord(String record) {
+            int i = 0;
+            while (i < record.length()) {
+                if (record.charAt(i) == '"') {
+                    // Find the end of the quoted field, where "" stands for a single quote
+                    ++i;
+                    while (true) {
+                        if (i >= record.length()) {
+                            return false;
+                        }
+                        if (record.charAt(i++) == '"') {
+                            if (i < record.length() && record.charAt(i) == '"') {
+                                ++i;
+                            } else {
+                                break;
+                            }
+                        }
+                    }
+                }
+                int end = record.indexOf(',', i);
+                if (end < 0) {
+                    return true;
+                }
+                i = end + 1;
+            }
+            return true;
+        }
+    },
+
+    JSON_LINES(".jsonl", null) {
+        @Override
+        public void encode(Task task, StringBuilder sb) {
+            sb.append("{\"type\":\"").append(getTypeCode(task)).append("\",\"done\":").append(task.isDone());
+            sb.append(",\"description\":");
+            appendJsonString(task.getDescription(), sb);
+            String date = getDate(task);
+            if (date != null) {
+                sb.append(",\"date\":");
+                appendJsonString(date, sb);
+            }
+            sb.append('}');
+        }
+
+        @Override
+        public Task decode(String line) {
+            return new JsonRecordParser(line).parse();
+        }
+    };
+
+    private final String fileExtension;
+    private final String header;
+
+    TaskFormat(String fileExtension, String header) {
+        this.fileExtension = fileExtension;
+        this.header = header;
+    }
+
+    /**
+     * Gets the format of a file using its file extension.
+     *
+     * @param fileName name of the file
+     * @return format of the file, or null if the extension is not recognised
+     */
+    public static TaskFormat fromFileName(String fileName) {
+        String lowerCaseName = fileName.toLowerCase();
+        for (TaskFormat format : values()) {
+            if (lowerCaseName.endsWith(format.fileExtension)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the header line written before the first task.
+     *
+     * @return header line, or null if the format has no header
+     */
+    public String getHeader() {
+        return header;
+    }
+
+    /**
+     * Appends a task as a single record, without the trailing line separator.
+     *
+     * A CSV record spans several lines if the task contains line separators.
+     *
+     * @param task task to encode
+     * @param sb builder to append the record to
+     */
+    public abstract void encode(Task task, StringBuilder sb);
+
+    /**
+     * Parses a single record into a task.
+     *
+     * @param line record to parse, without the trailing line separator
+     * @return the parsed task
+     * @throws IllegalArgumentException if the record is not a valid task
+     */
+    public abstract Task decode(String line);
+
+    /**
+     * Checks whether a record is complete, or continues on the next line.
+     *
+     * @param record lines read so far, joined with {@code \n}
+     * @return true if the record does not continue on the next line
+     */
+    public boolean isCompleteRecord(String record) {
+        return true;
+    }
+
+    private static String getTypeCode(Task task) {
+        if (task instanceof Deadline) {
+            return "D";
+        } else if (task instanceof Event) {
+            return "E";
+        } else {
+            return "T";
+        }
+    }
+
+    private static String getDate(Task task) {
+        if (task instanceof Deadline) {
+            return ((Deadline) task).getDeadline();
+        } else if (task instanceof Event) {
+            return ((Event) task).getDateTime();
+        } else {
+            return null;
+        }
+    }
+
+    private static boolean parseDone(String done) {
+        switch (done) {
+        case "true":
+            return true;
+        case "false":
+            return false;
+        default:
+            throw new IllegalArgumentException("Done status must be true or false but was '" + done + "'");
+        }
+    }
+
+    private static Task createTask(String type, boolean isDone, String description, String date) {
+        if (description == null || description.isEmpty()) {
+            throw new IllegalArgumentException("Description cannot be empty");
+        }
+        Task task;
+        switch (type) {
+        case "T":
+            task = new Todo(description);
+            break;
+        case "D":
+            if (date == null) {
+                throw new IllegalArgumentException("Deadline has no date");
+            }
+            task = new Deadline(description, date);
+            break;
+        case "E":
+            if (date == null) {
+                throw new IllegalArgumentException("Event has no date");
+            }
+            task = new Event(description, date);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown task type '" + type + "'");
+        }
+        if (isDone) {
+            task.markAsDone();
+        }
+        return task;
+    }
+
+    private static void appendCsvField(String field, StringBuilder sb) {
+        boolean needsQuotes = false;
+        for (int i = 0; i < field.length() && !needsQuotes; ++i) {
+            char c = field.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            sb.append(field);
+            return;
+        }
+        sb.append('"');
+        for (int i = 0; i < field.length(); ++i) {
+            char c = field.charAt(i);
+            if (c == '"') {
+                sb.append('"');
+            }
+            sb.append(c);
+        }
+        sb.append('"');
+    }
+
+    private static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>(4);
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        while (true) {
+            if (i < line.length() && line.charAt(i) == '"') {
+                // Quoted field, where "" stands for a single quote
+                ++i;
+                while (true) {
+                    if (i >= line.length()) {
+                        throw new IllegalArgumentException("Unterminated quoted field");
+                    }
+                    char c = line.charAt(i++);
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i < line.length() && line.charAt(i) == '"') {
+                        field.append('"');
+                        ++i;
+                    } else {
+                        break;
+                    }
+                }
+                if (i < line.length() && line.charAt(i) != ',') {
+                    throw new IllegalArgumentException("Unexpected character after quoted field");
+                }
+            } else {
+                int end = line.indexOf(',', i);
+                end = end < 0 ? line.length() : end;
+                field.append(line, i, end);
+                i = end;
+            }
+            fields.add(field.toString());
+            field.setLength(0);
+            if (i >= line.length()) {
+                return fields;
+            }
+            ++i; // Skip comma
+        }
+    }
+
+    private static void appendJsonString(String value, StringBuilder sb) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); ++i) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '"':
+                sb.append("\\\"");
+                break;
+            case '\\':
+                sb.append("\\\\");
+                break;
+            case '\n':
+                sb.append("\\n");
+                break;
+            case '\r':
+                sb.append("\\r");
+                break;
+            case '\t':
+                sb.append("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    sb.append(String.format("\\u%04x", (int) c));
+                } else {
+                    sb.append(c);
+                }
+            }
+        }
+        sb.append('"');
+    }
+
+    /**
+     * Parses a JSON object holding a task. Fields other than the task's own are skipped, whatever their value.
+     */
+    private static class JsonRecordParser {
+        private static final int MAX_SKIPPED_DEPTH = 32;
+
+        private final String line;
+        private final StringBuilder sb = new StringBuilder();
+        private int pos = 0;
+
+        private String type;
+        private boolean isDone;
+        private String description;
+        private String date;
+
+        JsonRecordParser(String line) {
+            this.line = line;
+        }
+
+        Task parse() {
+            expect('{');
+            skipWhitespace();
+            if (peek() == '}') {
+                ++pos;
+            } else {
+                do {
+                    skipWhitespace();
+                    String key = readString();
+                    skipWhitespace();
+                    expect(':');
+                    skipWhitespace();
+                    readValue(key);
+                    skipWhitespace();
+                } while (tryConsume(','));
+                expect('}');
+            }
+            skipWhitespace();
+            if (pos != line.length()) {
+                throw new IllegalArgumentException("Unexpected characters after JSON object");
+            }
+            if (type == null) {
+                throw new IllegalArgumentException("Missing task type");
+            }
+            return createTask(type, isDone, description, date);
+        }
+
+        private void readValue(String key) {
+            switch (key) {
+            case "type":
+                type = readStringOrNull(key);
+                break;
+            case "description":
+                description = readStringOrNull(key);
+                break;
+            case "date":
+                date = readStringOrNull(key);
+                break;
+            case "done":
+                isDone = readBooleanOrNull(key);
+                break;
+            default:
+                // Ignore fields added by other tools, such as ids and timestamps
+                skipValue(0);
+            }
+        }
+
+        private String readStringOrNull(String key) {
+            if (tryConsumeLiteral("null")) {
+                return null;
+            } else if (peek() != '"') {
+                throw new IllegalArgumentException("Expected a string value for '" + key + "'");
+            }
+            return readString();
+        }
+
+        private boolean readBooleanOrNull(String key) {
+            if (tryConsumeLiteral("true")) {
+                return true;
+            } else if (tryConsumeLiteral("false") || tryConsumeLiteral("null")) {
+                return false;
+            }
+            throw new IllegalArgumentException("Expected a boolean value for '" + key + "'");
+        }
+
+        private void skipValue(int depth) {
+            if (depth > MAX_SKIPPED_DEPTH) {
+                throw new IllegalArgumentException("JSON value nested too deeply at column " + (pos + 1));
+            }
+            char c = peek();
+            if (c == '"') {
+                readString();
+            } else if (c == '{') {
+                ++pos;
+                skipWhitespace();
+                if (tryConsume('}')) {
+                    return;
+                }
+                do {
+                    skipWhitespace();
+                    readString();
+                    skipWhitespace();
+                    expect(':');
+                    skipWhitespace();
+                    skipValue(depth + 1);
+                    skipWhitespace();
+                } while (tryConsume(','));
+                expect('}');
+            } else if (c == '[') {
+                ++pos;
+                skipWhitespace();
+                if (tryConsume(']')) {
+                    return;
+                }
+                do {
+                    skipWhitespace();
+                    skipValue(depth + 1);
+                    skipWhitespace();
+                } while (tryConsume(','));
+                expect(']');
+            } else if (!tryConsumeLiteral("true") && !tryConsumeLiteral("false") && !tryConsumeLiteral("null")) {
+                skipNumber();
+            }
+        }
+
+        private void skipNumber() {
+            int start = pos;
+            while (pos < line.length() && "+-0123456789.eE".indexOf(line.charAt(pos)) >= 0) {
+                ++pos;
+            }
+            if (!line.substring(start, pos).matches("-?(0|[1-9][0-9]*)(\\.[0-9]+)?([eE][+-]?[0-9]+)?")) {
+                throw new IllegalArgumentException("Unsupported JSON value at column " + (start + 1));
+            }
+        }
+
+        private boolean tryConsumeLiteral(String literal) {
+            if (line.startsWith(literal, pos)) {
+                pos += literal.length();
+                return true;
+            }
+            return false;
+        }
+
+        private String readString() {
+            expect('"');
+            sb.setLength(0);
+            while (true) {
+                if (pos >= line.length()) {
+                    throw new IllegalArgumentException("Unterminated JSON string");
+                }
+                char c = line.charAt(pos++);
+                if (c == '"') {
+                    return sb.toString();
+                } else if (c != '\\') {
+                    sb.append(c);
+                    continue;
+                }
+                if (pos >= line.length()) {
+                    throw new IllegalArgumentException("Unterminated JSON string");
+                }
+                char escaped = line.charAt(pos++);
+                switch (escaped) {
+                case '"':
+                case '\\':
+                case '/':
+                    sb.append(escaped);
+                    break;
+                case 'b':
+                    sb.append('\b');
+                    break;
+                case 'f':
+                    sb.append('\f');
+                    break;
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'u':
+                    if (pos + 4 > line.length()) {
+                        throw new IllegalArgumentException("Invalid unicode escape");
+                    }
+                    try {
+                        sb.append((char) Integer.parseInt(line.substring(pos, pos + 4), 16));
+                    } catch (NumberFormatException nfe) {
+                        throw new IllegalArgumentException("Invalid unicode escape");
+                    }
+                    pos += 4;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Invalid escape character '" + escaped + "'");
+                }
+            }
+        }
+
+        private char peek() {
+            if (pos >= line.length()) {
+                throw new IllegalArgumentException("Unexpected end of JSON object");
+            }
+            return line.charAt(pos);
+        }
+
+        private void expect(char expected) {
+            if (peek() != expected) {
+                throw new IllegalArgumentException("Expected '" + expected + "' at column " + (pos + 1));
+            }
+            ++pos;
+        }
+
+        private boolean tryConsume(char c) {
+            if (pos < line.length() && line.charAt(pos) == c) {
+                ++pos;
+                return true;
+            }
+            return false;
+        }
+
+        private void skipWhitespace() {
+            while (pos < line.length() && Character.isWhitespace(line.charAt(pos))) {
+                ++pos;
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * Keeps recently used task lists in memory.
+ */
+package sg.christopher.duke.io;
+
+import sg.christopher.duke.entities.Task;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TaskListCache {
+    public static final int DEFAULT_CAPACITY = 1;
+
+    private final Map<String, List<Task>> residentLists;
+
+    /**
+     * Creates a cache that holds up to {@link #DEFAULT_CAPACITY} task lists.
+     */
+    public TaskListCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a cache that holds up to {@code capacity} task lists, evicting the least recently used list first.
+     *
+     * Lists are always written through to disk by the caller, so evicting a list never loses data.
+     *
+     * @param capacity maximum number of task lists kept in memory
+     */
+    public TaskListCache(int capacity) {
+        assert capacity >= 1;
+        residentLists = new LinkedHashMap<>(capacity + 1, 1f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<Task>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Gets a task list, reading it from disk if it is not already in memory.
+     *
+     * @param listName name of the task list
+     * @return the task list, which is empty if it has not been saved before
+     */
+    public List<Task> get(String listName) {
+        return residentLists.computeIfAbsent(listName, name -> {
+            List<Task> saved = DataManager.readList(name);
+            return saved != null ? saved : new ArrayList<>();
+        });
+    }
+
+    /**
+     * Checks whether a task list is currently held in memory.
+     *
+     * @param listName name of the task list
+     * @return true if the task list is in memory
+     */
+    public boolean isResident(String listName) {
+        return residentLists.containsKey(listName);
+    }
+}
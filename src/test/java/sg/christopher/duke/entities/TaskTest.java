@@ -3,6 +3,10 @@ package sg.christopher.duke.entities;
 import org.junit.jupiter.api.Test;
 import sg.christopher.duke.entities.Task;
 
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class TaskTest {
@@ -26,4 +30,20 @@ public class TaskTest {
         task.markAsDone();
         assertEquals(task.getStatusIcon(), "\u2713");
     }
+
+    @Test
+    public void task_whenSavedByEarlierVersion_shouldBeReadable() throws Exception {
+        // baseline-data.txt was written by the original version of Duke, before any task methods were added
+        try (InputStream in = TaskTest.class.getResourceAsStream("/baseline-data.txt");
+                ObjectInputStream ois = new ObjectInputStream(in)) {
+            @SuppressWarnings("unchecked")
+            List<Task> tasks = (List<Task>) ois.readObject();
+
+            assertEquals(4, tasks.size());
+            assertEquals("[T][\u2713] eat lunch", tasks.get(0).toString());
+            assertEquals("[D][\u2718] finish ip (by: Sep 18 2020)", tasks.get(1).toString());
+            assertEquals("[D][\u2718] watch lecture (by: tomorrow 7am)", tasks.get(2).toString());
+            assertEquals("[E][\u2718] lunch (at: 12 noon)", tasks.get(3).toString());
+        }
+    }
 }
@@ -0,0 +1,24 @@
+package sg.christopher.duke.io;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class DataManagerTest {
+    @Test
+    public void getDataFile_whenDefaultList_shouldUseLegacyFile() {
+        assertEquals("data.txt", DataManager.getDataFile(DataManager.DEFAULT_LIST).getName());
+        assertEquals(DataManager.DATA_DIR, DataManager.getDataFile(DataManager.DEFAULT_LIST).getParentFile());
+    }
+
+    @Test
+    public void getDataFile_whenListNamedData_shouldNotShareDefaultListFile() {
+        assertNotEquals(DataManager.getDataFile(DataManager.DEFAULT_LIST), DataManager.getDataFile("data"));
+    }
+
+    @Test
+    public void getDataFile_whenDifferentLists_shouldUseDifferentFiles() {
+        assertNotEquals(DataManager.getDataFile("work"), DataManager.getDataFile("home"));
+    }
+}
@@ -0,0 +1,144 @@
+package sg.christopher.duke.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import sg.christopher.duke.entities.Deadline;
+import sg.christopher.duke.entities.Task;
+import sg.christopher.duke.entities.Todo;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DataTransferTest {
+    @TempDir
+    Path tempDir;
+
+    private Path writeFile(String fileName, String content) throws IOException {
+        Path path = tempDir.resolve(fileName);
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+
+    private static String todoRows(int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; ++i) {
+            sb.append("T,false,task ").append(i).append(",\n");
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void importList_shouldPassTasksOnInChunks() throws Exception {
+        Path path = writeFile("tasks.csv", todoRows(DataTransfer.CHUNK_SIZE * 2 + 1));
+
+        List<Integer> chunkSizes = new ArrayList<>();
+        DataTransfer.ImportResult result = DataTransfer.importList(path, TaskFormat.CSV,
+                chunk -> chunkSizes.add(chunk.size()));
+
+        assertEquals(List.of(DataTransfer.CHUNK_SIZE, DataTransfer.CHUNK_SIZE, 1), chunkSizes);
+        assertEquals(DataTransfer.CHUNK_SIZE * 2 + 1, result.getImportedCount());
+    }
+
+    @Test
+    public void importList_shouldSkipHeaderAndBlankLines() throws Exception {
+        Path path = writeFile("tasks.csv", TaskFormat.CSV.getHeader() + "\n\nT,false,eat lunch,\n   \n"
+                + "E,true,lunch,12 noon\n\n");
+
+        List<Task> imported = new ArrayList<>();
+        DataTransfer.ImportResult result = DataTransfer.importList(path, TaskFormat.CSV, imported::addAll);
+
+        assertEquals(0, result.getMalformedCount());
+        assertEquals(2, result.getImportedCount());
+        assertEquals("[T][\u2718] eat lunch", imported.get(0).toString());
+        assertEquals("[E][\u2713] lunch (at: 12 noon)", imported.get(1).toString());
+    }
+
+    @Test
+    public void importList_whenManyMalformedRows_shouldCountAllButReportFirstFew() throws Exception {
+        int malformedCount = DataTransfer.MAX_REPORTED_ERRORS + 5;
+        StringBuilder content = new StringBuilder("T,false,good,\n");
+        for (int i = 0; i < malformedCount; ++i) {
+            content.append("X,false,bad,\n");
+        }
+        Path path = writeFile("tasks.csv", content.toString());
+
+        DataTransfer.ImportResult result = DataTransfer.importList(path, TaskFormat.CSV, chunk -> { });
+
+        assertEquals(1, result.getImportedCount());
+        assertEquals(malformedCount, result.getMalformedCount());
+        assertEquals(DataTransfer.MAX_REPORTED_ERRORS, result.getErrors().size());
+        assertEquals("Line 2: Unknown task type 'X'", result.getErrors().get(0));
+    }
+
+    @Test
+    public void importList_whenStrayQuote_shouldOnlySkipThatRow() throws Exception {
+        int goodRowCount = DataTransfer.MAX_RECORD_LINES + 36;
+        Path path = writeFile("tasks.csv", "T,false,\"oops,\n" + todoRows(goodRowCount));
+
+        List<Task> imported = new ArrayList<>();
+        DataTransfer.ImportResult result = DataTransfer.importList(path, TaskFormat.CSV, imported::addAll);
+
+        assertEquals(goodRowCount, result.getImportedCount());
+        assertEquals(1, result.getMalformedCount());
+        assertEquals("Line 1: Unterminated quoted field", result.getErrors().get(0));
+        assertEquals("[T][\u2718] task 0", imported.get(0).toString());
+        assertEquals("[T][\u2718] task " + (goodRowCount - 1), imported.get(goodRowCount - 1).toString());
+    }
+
+    @Test
+    public void importList_whenMultiLineRecordMalformed_shouldReportLinesFromFirstLine() throws Exception {
+        Path path = writeFile("tasks.csv", "X,false,\"two\nlines\",\nT,false,good,\n");
+
+        List<Task> imported = new ArrayList<>();
+        DataTransfer.ImportResult result = DataTransfer.importList(path, TaskFormat.CSV, imported::addAll);
+
+        assertEquals(1, result.getImportedCount());
+        assertEquals("Line 1: Unknown task type 'X'", result.getErrors().get(0));
+        assertEquals("Line 2: Expected 4 fields but found 2", result.getErrors().get(1));
+        assertEquals("[T][\u2718] good", imported.get(0).toString());
+    }
+
+    @Test
+    public void importList_whenReadFailsPartWay_shouldKeepChunksAlreadyPassedOn() throws Exception {
+        Path path = tempDir.resolve("tasks.csv");
+        try (OutputStream out = Files.newOutputStream(path)) {
+            out.write(todoRows(DataTransfer.CHUNK_SIZE * 4).getBytes(StandardCharsets.UTF_8));
+            // Invalid UTF-8, which fails decoding with an IOException
+            out.write(new byte[] {(byte) 0xff, (byte) 0xfe, '\n'});
+        }
+
+        List<Task> imported = new ArrayList<>();
+        assertThrows(IOException.class, () -> DataTransfer.importList(path, TaskFormat.CSV, imported::addAll));
+
+        assertTrue(imported.size() >= DataTransfer.CHUNK_SIZE);
+        assertEquals(0, imported.size() % DataTransfer.CHUNK_SIZE);
+        assertEquals("[T][\u2718] task 0", imported.get(0).toString());
+    }
+
+    @Test
+    public void exportThenImport_whenDescriptionHasLineBreaks_shouldRoundTrip() throws Exception {
+        List<Task> tasks = List.of(new Todo("two\nlines"), new Deadline("after, \"quoted\"", "2020-09-18"));
+        for (TaskFormat format : TaskFormat.values()) {
+            Path path = tempDir.resolve("tasks-" + format);
+            DataTransfer.exportList(tasks, path, format);
+
+            List<Task> imported = new ArrayList<>();
+            DataTransfer.ImportResult result = DataTransfer.importList(path, format, imported::addAll);
+
+            assertEquals(0, result.getMalformedCount());
+            assertEquals(tasks.size(), imported.size());
+            for (int i = 0; i < tasks.size(); ++i) {
+                assertEquals(tasks.get(i).toString(), imported.get(i).toString());
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package sg.christopher.duke.io;
+
+import org.junit.jupiter.api.Test;
+import sg.christopher.duke.entities.Deadline;
+import sg.christopher.duke.entities.Event;
+import sg.christopher.duke.entities.Task;
+import sg.christopher.duke.entities.Todo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TaskFormatTest {
+    private static String encode(TaskFormat format, Task task) {
+        StringBuilder sb = new StringBuilder();
+        format.encode(task, sb);
+        return sb.toString();
+    }
+
+    @Test
+    public void fromFileName_shouldMatchExtension() {
+        assertEquals(TaskFormat.CSV, TaskFormat.fromFileName("tasks.CSV"));
+        assertEquals(TaskFormat.JSON_LINES, TaskFormat.fromFileName("tasks.jsonl"));
+        assertEquals(null, TaskFormat.fromFileName("tasks.txt"));
+    }
+
+    @Test
+    public void csv_whenDescriptionHasCommasAndQuotes_shouldRoundTrip() {
+        Task task = new Todo("say \"hi\", then leave");
+        task.markAsDone();
+        String line = encode(TaskFormat.CSV, task);
+
+        assertEquals("T,true,\"say \"\"hi\"\", then leave\",", line);
+        assertEquals(task.toString(), TaskFormat.CSV.decode(line).toString());
+    }
+
+    @Test
+    public void csv_whenDescriptionHasLineBreaks_shouldSpanLinesAndRoundTrip() {
+        Task task = new Todo("two\nlines");
+        String record = encode(TaskFormat.CSV, task);
+
+        assertEquals("T,false,\"two\nlines\",", record);
+        assertFalse(TaskFormat.CSV.isCompleteRecord(record.substring(0, record.indexOf('\n'))));
+        assertTrue(TaskFormat.CSV.isCompleteRecord(record));
+        assertEquals(task.getDescription(), TaskFormat.CSV.decode(record).getDescription());
+    }
+
+    @Test
+    public void csv_whenQuoteInsideUnquotedField_shouldBeCompleteRecord() {
+        assertTrue(TaskFormat.CSV.isCompleteRecord("T,false,a 5\" screen,"));
+    }
+
+    @Test
+    public void jsonLines_shouldRoundTripAllTaskTypes() {
+        Task[] tasks = {new Todo("a \\ b\tc"), new Deadline("finish ip", "2020-09-18"), new Event("lunch", "12 noon")};
+        for (Task task : tasks) {
+            String line = encode(TaskFormat.JSON_LINES, task);
+            assertEquals(task.toString(), TaskFormat.JSON_LINES.decode(line).toString());
+        }
+    }
+
+    @Test
+    public void jsonLines_whenKeysReorderedAndSpaced_shouldDecode() {
+        Task task = TaskFormat.JSON_LINES.decode("{ \"date\" : \"8pm\", \"description\": \"party\", \"type\": \"E\" }");
+        assertEquals("[E][\u2718] party (at: 8pm)", task.toString());
+    }
+
+    @Test
+    public void jsonLines_whenExtraFields_shouldIgnoreThem() {
+        Task task = TaskFormat.JSON_LINES.decode("{\"id\":\"a1\",\"type\":\"D\",\"priority\":3,"
+                + "\"description\":\"finish ip\",\"score\":-1.5e3,\"done\":true,\"date\":\"2020-09-18\","
+                + "\"tags\":[\"cs\",{\"x\":null}],\"meta\":{\"starred\":false}}");
+        assertEquals("[D][\u2713] finish ip (by: Sep 18 2020)", task.toString());
+    }
+
+    @Test
+    public void jsonLines_whenKnownFieldHasWrongType_shouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> TaskFormat.JSON_LINES.decode(
+                "{\"type\":\"T\",\"description\":3}"));
+        assertThrows(IllegalArgumentException.class, () -> TaskFormat.JSON_LINES.decode(
+                "{\"type\":\"T\",\"description\":\"a\",\"done\":\"yes\"}"));
+        assertThrows(IllegalArgumentException.class, () -> TaskFormat.JSON_LINES.decode(
+                "{\"type\":\"T\",\"description\":\"a\",\"extra\":01}"));
+        assertThrows(IllegalArgumentException.class, () -> TaskFormat.JSON_LINES.decode(
+                "{\"type\":\"T\",\"description\":\"a\",\"extra\":" + "[".repeat(10000) + "}"));
+    }
+
+    @Test
+    public void decode_whenMalformed_shouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> TaskFormat.CSV.decode("X,false,bad,"));
+        assertThrows(IllegalArgumentException.class, () -> TaskFormat.CSV.decode("D,false,no date,"));
+        assertThrows(IllegalArgumentException.class, () -> TaskFormat.CSV.decode("T,false,\"unterminated"));
+        assertThrows(IllegalArgumentException.class, () -> TaskFormat.JSON_LINES.decode("{\"type\":\"T\""));
+        assertThrows(IllegalArgumentException.class, () -> TaskFormat.JSON_LINES.decode("not json"));
+    }
+}
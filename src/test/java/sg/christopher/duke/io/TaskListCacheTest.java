@@ -0,0 +1,34 @@
+package sg.christopher.duke.io;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TaskListCacheTest {
+    @Test
+    public void get_whenListNotSaved_shouldReturnEmptyList() {
+        TaskListCache cache = new TaskListCache();
+        assertTrue(cache.get("mock-unsaved-list").isEmpty());
+    }
+
+    @Test
+    public void get_whenCalledTwice_shouldReturnSameList() {
+        TaskListCache cache = new TaskListCache();
+        assertSame(cache.get("mock-list"), cache.get("mock-list"));
+    }
+
+    @Test
+    public void get_whenOverCapacity_shouldEvictLeastRecentlyUsedList() {
+        TaskListCache cache = new TaskListCache(2);
+        cache.get("mock-list-a");
+        cache.get("mock-list-b");
+        cache.get("mock-list-a");
+        cache.get("mock-list-c");
+
+        assertTrue(cache.isResident("mock-list-a"));
+        assertFalse(cache.isResident("mock-list-b"));
+        assertTrue(cache.isResident("mock-list-c"));
+    }
+}
@@ -12,15 +12,21 @@ then
     rm ACTUAL.TXT
 fi
 
+# delete saved data from previous run
+if [ -d "./data" ]
+then
+    rm -r data
+fi
+
 # compile the code into the bin folder, terminates if error occurred
-if ! javac -cp ../src -Xlint:none -d ../bin ../src/sg/christopher/duke/*.java
+if ! javac -sourcepath ../src/main/java -Xlint:none -d ../bin ../src/main/java/sg/christopher/duke/Cli.java
 then
     echo "********** BUILD FAILURE **********"
     exit 1
 fi
 
 # run the program, feed commands from input.txt file and redirect the output to the ACTUAL.TXT
-java -classpath ../bin Duke < input.txt > ACTUAL.TXT
+java -classpath ../bin sg.christopher.duke.Cli < input.txt > ACTUAL.TXT
 
 # convert to UNIX format
 cp EXPECTED.TXT EXPECTED-UNIX.TXT